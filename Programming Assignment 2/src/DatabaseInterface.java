@@ -4,6 +4,7 @@ import java.util.Deque;
 public interface DatabaseInterface extends AutoCloseable {
     boolean getName(String ticker) throws SQLException;
     Deque<StockData> getStockData(String ticker, String start, String end) throws SQLException;
+    StockDataSource getStockDataSource(String ticker, String start, String end) throws SQLException;
     void close() throws SQLException;
 }
 
@@ -12,9 +12,9 @@ import java.util.Properties;
  */
 class MySQLDatabaseManager implements DatabaseInterface {
     private Connection conn;
-    private final double[] splitRatios = {2.0, 3.0, 1.5};
-    private final String[] splitStrings = {"2:1", "3:1", "3:2"};
-    private final double[] splitTolerances = {0.20, 0.30, 0.15};
+    static final double[] splitRatios = {2.0, 3.0, 1.5};
+    static final String[] splitStrings = {"2:1", "3:1", "3:2"};
+    static final double[] splitTolerances = {0.20, 0.30, 0.15};
     MySQLDatabaseManager(String paramsFile) throws SQLException, ClassNotFoundException, IOException {
         // Load database connection properties from the file
         Properties connectprops = new Properties();
@@ -75,7 +75,7 @@ class MySQLDatabaseManager implements DatabaseInterface {
     }
 
     // helper method for getStockData to create StockData objects with the appropriate splitMultiply added to the value
-    private static StockData createStockData(ResultSet rs, String ticker, double splitMultiply) throws SQLException {
+    static StockData createStockData(ResultSet rs, String ticker, double splitMultiply) throws SQLException {
         double openPrice = Double.parseDouble(rs.getString("OpenPrice")) / splitMultiply;
         double closePrice = Double.parseDouble(rs.getString("ClosePrice")) / splitMultiply;
         double highPrice = Double.parseDouble(rs.getString("HighPrice")) / splitMultiply;
@@ -85,7 +85,7 @@ class MySQLDatabaseManager implements DatabaseInterface {
     }
 
     // helper method to print split information with original previousClose price and currentOpen price
-    private static void printSplitInfo(String splitString, ResultSet rs, double previousClose, double currentOpen, double splitMultiply) throws SQLException {
+    static void printSplitInfo(String splitString, ResultSet rs, double previousClose, double currentOpen, double splitMultiply) throws SQLException {
         System.out.printf("%s split on %s %.2f --> %.2f\n",
                 splitString,
                 rs.getString("transDate"),
@@ -156,6 +156,15 @@ class MySQLDatabaseManager implements DatabaseInterface {
         }
     }
 
+    /**
+     * Returns a paged source over the same data as getStockData. The split scan runs up front so split
+     * information is printed before the strategy starts; the adjusted rows are then fetched a page at a time.
+     */
+    @Override
+    public StockDataSource getStockDataSource(String ticker, String start, String end) throws SQLException {
+        return new PagedStockDataSource(conn, ticker, start, end);
+    }
+
     @Override
     public void close() throws SQLException {
         if (conn != null) {
@@ -0,0 +1,202 @@
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The PagedStockDataSource class streams a ticker's history from the database in fixed-size date pages,
+ * using keyset pagination on transDate instead of loading the whole history at once.
+ * Split adjustment depends on every split after a given day, so the split points are found first by a
+ * lightweight newest-to-oldest scan. The adjusted rows are then fetched oldest-to-newest as they are
+ * consumed, with the following page prefetched in the background.
+ */
+class PagedStockDataSource implements StockDataSource {
+    static final int PAGE_SIZE = 1000;
+
+    private final Connection conn;
+    private final String ticker;
+    private final String start;
+    private final String end;
+    private final boolean hasDates;
+
+    // split points found by scanSplits, oldest first, with the divisor for every row on or before that date
+    private final List<String> splitDates = new ArrayList<>();
+    private final List<Double> splitMultipliers = new ArrayList<>();
+    private int splitIndex = 0;
+
+    private final ExecutorService prefetcher;
+    private Deque<StockData> page = new ArrayDeque<>();
+    private Future<Deque<StockData>> nextPage;
+
+    PagedStockDataSource(Connection conn, String ticker, String start, String end) throws SQLException {
+        this.conn = conn;
+        this.ticker = ticker;
+        this.start = start;
+        this.end = end;
+        this.hasDates = start != null && end != null;
+
+        scanSplits();
+
+        // Start fetching the first page straight away so it is ready when the strategy asks for it
+        prefetcher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "stock-data-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        nextPage = prefetcher.submit(() -> fetchPage(null));
+    }
+
+    // helper method to build a paged statement, optionally restricted to the user's dates and continuing after lastDate
+    private PreparedStatement preparePageStatement(String columns, String lastDate, boolean descending) throws SQLException {
+        PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT " + columns
+                        + " FROM pricevolume"
+                        + " WHERE Ticker = ?"
+                        + (hasDates ? " AND transDate BETWEEN ? AND ?" : "")
+                        + (lastDate != null ? (descending ? " AND transDate < ?" : " AND transDate > ?") : "")
+                        + " ORDER BY transDate " + (descending ? "DESC" : "ASC")
+                        + " LIMIT ?");
+        int index = 1;
+        pstmt.setString(index++, ticker);
+        if (hasDates) {
+            pstmt.setString(index++, start);
+            pstmt.setString(index++, end);
+        }
+        if (lastDate != null) {
+            pstmt.setString(index++, lastDate);
+        }
+        pstmt.setInt(index, PAGE_SIZE);
+        return pstmt;
+    }
+
+    /**
+     * Walks the history newest to oldest one page at a time, carrying the split state across pages.
+     * Prints the same split information as MySQLDatabaseManager.getStockData and records each split point.
+     */
+    private void scanSplits() throws SQLException {
+        double splitMultiply = 1;
+        double currentOpen = 0;
+        int count = 0;
+        int splitCount = 0;
+        String lastDate = null;
+        int rows;
+
+        do {
+            rows = 0;
+            try (PreparedStatement pstmt = preparePageStatement("transDate, OpenPrice, ClosePrice", lastDate, true);
+                 ResultSet rs = pstmt.executeQuery()) {
+                double previousClose;
+                double ratio;
+                while (rs.next()) {
+                    lastDate = rs.getString("transDate");
+
+                    // The newest row only initializes currentOpen, every older row is checked for a split
+                    if (count > 0) {
+                        previousClose = Double.parseDouble(rs.getString("ClosePrice")) / splitMultiply;
+                        ratio = previousClose / currentOpen;
+
+                        // Check each potential split ratio
+                        for (int i = 0; i < MySQLDatabaseManager.splitRatios.length; i++) {
+                            if (Math.abs(ratio - MySQLDatabaseManager.splitRatios[i]) < MySQLDatabaseManager.splitTolerances[i]) {
+                                MySQLDatabaseManager.printSplitInfo(MySQLDatabaseManager.splitStrings[i], rs, previousClose, currentOpen, splitMultiply);
+                                splitMultiply *= MySQLDatabaseManager.splitRatios[i];
+                                splitCount++;
+                                splitDates.add(lastDate);
+                                splitMultipliers.add(splitMultiply);
+                                break;
+                            }
+                        }
+                    }
+
+                    currentOpen = Double.parseDouble(rs.getString("OpenPrice")) / splitMultiply;
+                    count++;
+                    rows++;
+                }
+            }
+        } while (rows == PAGE_SIZE);
+
+        // Splits were found newest first, but the pages are consumed oldest first
+        Collections.reverse(splitDates);
+        Collections.reverse(splitMultipliers);
+
+        // Print final statistics
+        System.out.printf("%d splits in %d trading days\n", splitCount, count);
+    }
+
+    // Fetches the page of rows after lastDate and adjusts them for splits. Only ever runs on the prefetch thread.
+    private Deque<StockData> fetchPage(String lastDate) throws SQLException {
+        Deque<StockData> result = new ArrayDeque<>();
+        try (PreparedStatement pstmt = preparePageStatement("transDate, OpenPrice, HighPrice, LowPrice, ClosePrice", lastDate, false);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                // Move past any split points older than this row, the next one holds this row's divisor
+                String transDate = rs.getString("transDate");
+                while (splitIndex < splitDates.size() && splitDates.get(splitIndex).compareTo(transDate) < 0) {
+                    splitIndex++;
+                }
+                double splitMultiply = splitIndex < splitDates.size() ? splitMultipliers.get(splitIndex) : 1;
+                result.addLast(MySQLDatabaseManager.createStockData(rs, ticker, splitMultiply));
+            }
+        }
+        return result;
+    }
+
+    // Waits for the prefetched page and, if it was full, starts fetching the one after it
+    private Deque<StockData> awaitNextPage() throws SQLException {
+        Deque<StockData> fetched;
+        try {
+            fetched = nextPage.get();
+        } catch (ExecutionException e) {
+            nextPage = null;
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Failed to fetch stock data for " + ticker, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while fetching stock data for " + ticker, e);
+        }
+
+        if (fetched.size() == PAGE_SIZE) {
+            String lastDate = fetched.peekLast().transDate;
+            nextPage = prefetcher.submit(() -> fetchPage(lastDate));
+        } else {
+            nextPage = null;
+        }
+        return fetched;
+    }
+
+    @Override
+    public boolean hasNext() throws SQLException {
+        if (page.isEmpty() && nextPage != null) {
+            page = awaitNextPage();
+        }
+        return !page.isEmpty();
+    }
+
+    @Override
+    public StockData next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.pop();
+    }
+
+    // Lets any in-flight page finish so the shared connection is idle before it is used again
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            try {
+                nextPage.get();
+            } catch (ExecutionException ignored) {
+                // The page is being discarded, so its error no longer matters
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            nextPage = null;
+        }
+        prefetcher.shutdown();
+    }
+}
@@ -0,0 +1,12 @@
+import java.sql.SQLException;
+
+/**
+ * The StockDataSource interface represents a forward-only stream of split adjusted StockData,
+ * ordered from the oldest trading day to the newest.
+ * All sources will be automatically closed via AutoCloseable in TradingStrategy.
+ */
+public interface StockDataSource extends AutoCloseable {
+    boolean hasNext() throws SQLException;
+    StockData next() throws SQLException;
+    void close() throws SQLException;
+}
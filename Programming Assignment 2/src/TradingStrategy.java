@@ -29,9 +29,10 @@ public class TradingStrategy {
             // If ticker is valid, execute the investment strategy
             try {
                 if (db.getName(ticker)) {
-                    Deque<StockData> data = db.getStockData(ticker, startdate, enddate);
-                    System.out.println("\nExecuting investment strategy");
-                    doStrategy(data);
+                    try (StockDataSource data = db.getStockDataSource(ticker, startdate, enddate)) {
+                        System.out.println("\nExecuting investment strategy");
+                        doStrategy(data);
+                    }
                 }
             } catch (SQLException e) {
                 System.out.println("An error occurred while executing the trading strategy: " + e.getMessage());
@@ -44,21 +45,15 @@ public class TradingStrategy {
     }
 
     /**
-     * Executes a trading strategy on the provided Deque of StockData.
+     * Executes a trading strategy on the provided StockDataSource.
      * Buys or sells stocks based on a 50-day moving average strategy, and prints the number of transactions and net cash.
-     * Modifies the passed Deque by removing elements from the front.
-     * Requires a Deque with at least 50 elements; otherwise, it returns without performing any transactions.
+     * Consumes the source from oldest to newest, so only the current page of data is held in memory.
+     * Requires at least 50 elements; otherwise, it returns without performing any transactions.
      */
-    void doStrategy(Deque<StockData> data) {
+    void doStrategy(StockDataSource data) throws SQLException {
         int transactionsExecuted = 0;
         double totalCash = 0;
 
-        // Check for adequate data
-        if (data.size() < 50) {
-            System.out.printf("Transactions executed: %d\nNet Cash: %.2f\n\n", transactionsExecuted, totalCash);
-            return;
-        }
-
         // Initialize variables
         Deque<Double> previousDays = new ArrayDeque<>(); // Last 50 days of closing prices
         StockData stockData = null;
@@ -67,20 +62,26 @@ public class TradingStrategy {
         boolean readyToBuy = false;
 
         // Populate previousDays and runningTotal with first 50 days
-        for (int i = 0; i < 50; i++) {
-            double closePrice = data.pop().closePrice;
+        while (previousDays.size() < 50 && data.hasNext()) {
+            double closePrice = data.next().closePrice;
             previousDays.addLast(closePrice);
             runningTotal += closePrice;
         }
 
+        // Check for adequate data
+        if (previousDays.size() < 50) {
+            System.out.printf("Transactions executed: %d\nNet Cash: %.2f\n\n", transactionsExecuted, totalCash);
+            return;
+        }
+
         // Initialize loop variables
         double openPrice;
         double closePrice;
         double averagePrice;
 
         // Trading logic
-        while (!data.isEmpty()) {
-            stockData = data.pop();
+        while (data.hasNext()) {
+            stockData = data.next();
             openPrice = stockData.openPrice;
             closePrice = stockData.closePrice;
             averagePrice = runningTotal / 50;